@@ -49,11 +49,19 @@ public class OrderBook {
             final boolean buy,
             final int qty,
             final long price) {
-        return placeOrder(orderId, buy, qty, price, true);
+        return placeOrder(orderId, buy, qty, price, true, true);
     }
 
     public boolean placeMarketOrder(final String orderId, final boolean buy, final int qty) {
-        return placeOrder(orderId, buy, qty, getMarketPriceIndicator(buy), false);
+        return placeOrder(orderId, buy, qty, getMarketPriceIndicator(buy), false, true);
+    }
+
+    /**
+     * Places a market order that only takes liquidity already in the book; any unfilled qty is cancelled
+     * instead of resting at the market-price indicator.
+     */
+    public boolean placeImmediateOrCancelMarketOrder(final String orderId, final boolean buy, final int qty) {
+        return placeOrder(orderId, buy, qty, getMarketPriceIndicator(buy), false, false);
     }
 
     private boolean placeOrder(
@@ -61,7 +69,8 @@ public class OrderBook {
             final boolean buy,
             final int qty,
             final long price,
-            final boolean allowFillWithMarketOrders) {
+            final boolean allowFillWithMarketOrders,
+            final boolean restUnfilled) {
         final NavigableMap<Long, PriceLevel> matchingSide = (buy ? ask : bid);
         final NavigableMap<Long, PriceLevel> matchingLevels = new TreeMap<>(matchingSide.headMap(price, true));
         if (!allowFillWithMarketOrders) {
@@ -76,7 +85,7 @@ public class OrderBook {
             }
         }
         if (matchingLevels.isEmpty()) {
-            addOrder(orderId, buy, qty, price);
+            addOrCancelOrder(orderId, buy, qty, price, restUnfilled);
             return false;
         }
 
@@ -98,12 +107,26 @@ public class OrderBook {
         }
 
         if (toBeFilled > 0) {
-            addOrder(orderId, buy, toBeFilled, price);
+            addOrCancelOrder(orderId, buy, toBeFilled, price, restUnfilled);
         }
 
         return true;
     }
 
+    private void addOrCancelOrder(
+            final String orderId,
+            final boolean buy,
+            final int qty,
+            final long price,
+            final boolean rest) {
+        if (rest) {
+            addOrder(orderId, buy, qty, price);
+        }
+        else if (listener != null) {
+            listener.orderCancelled(orderId);
+        }
+    }
+
     private void addOrder(
             final String orderId,
             final boolean buy,
@@ -0,0 +1,114 @@
+package com.activevector.trading.orderbook.sim;
+
+import com.activevector.trading.orderbook.model.PriceLevelFillStrategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Replays many symbol-days in parallel. Every symbol-day is loaded and replayed on its own
+ * {@link com.activevector.trading.orderbook.OrderBook} within a single fork/join leaf task, so workers
+ * share no mutable state and results are only combined once each replay has finished. Loads run on the
+ * pool's workers, so {@code parallelism} bounds both concurrent loads and concurrent replays.
+ */
+public class BacktestRunner implements AutoCloseable {
+    private final OrderStreamLoader loader;
+    private final PriceLevelFillStrategy fillStrategy;
+    private final ForkJoinPool pool;
+
+    public BacktestRunner(final OrderStreamLoader loader) {
+        this(loader, PriceLevelFillStrategy.FILL_IN_SEQ, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BacktestRunner(final OrderStreamLoader loader, final PriceLevelFillStrategy fillStrategy, final int parallelism) {
+        this.loader = requireNonNull(loader, "loader");
+        this.fillStrategy = requireNonNull(fillStrategy, "fillStrategy");
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Replays the given symbol-days. The first failure stops any symbol-day not yet started.
+     *
+     * @throws SymbolDayException if any symbol-day fails to load or replay
+     */
+    public SimulationResult run(final Collection<SymbolDay> symbolDays) {
+        final List<SymbolDay> list = new ArrayList<>(symbolDays);
+        return list.isEmpty()
+                ? SimulationResult.EMPTY
+                : pool.invoke(new ReplayTask(list, 0, list.size(), new AtomicBoolean()));
+    }
+
+    SimulationResult replay(final SymbolDay symbolDay) {
+        final List<OrderEvent> orders = load(symbolDay);
+        try {
+            return new SymbolDayReplay(symbolDay, fillStrategy).replay(orders);
+        }
+        catch (final RuntimeException e) {
+            throw new SymbolDayException(symbolDay, "Failed to replay " + symbolDay, e);
+        }
+    }
+
+    private List<OrderEvent> load(final SymbolDay symbolDay) {
+        try {
+            return requireNonNull(loader.load(symbolDay), "orders");
+        }
+        catch (final Exception e) {
+            throw new SymbolDayException(symbolDay, "Failed to load order stream for " + symbolDay, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private class ReplayTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<SymbolDay> symbolDays;
+        private final int from;
+        private final int to;
+        private final AtomicBoolean failed;
+
+        ReplayTask(final List<SymbolDay> symbolDays, final int from, final int to, final AtomicBoolean failed) {
+            this.symbolDays = symbolDays;
+            this.from = from;
+            this.to = to;
+            this.failed = failed;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from == 1) {
+                // Skipped leaves never surface: the failing leaf's exception propagates through every join above it.
+                if (failed.get()) return SimulationResult.EMPTY;
+                try {
+                    return replay(symbolDays.get(from));
+                }
+                catch (final RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }
+
+            final int mid = (from + to) >>> 1;
+            final ReplayTask left = new ReplayTask(symbolDays, from, mid, failed);
+            left.fork();
+            final SimulationResult right;
+            try {
+                right = new ReplayTask(symbolDays, mid, to, failed).compute();
+            }
+            catch (final RuntimeException e) {
+                left.cancel(false);
+                throw e;
+            }
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.activevector.trading.orderbook.sim;
+
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+public final class FillStatistics {
+    public static final FillStatistics EMPTY = new FillStatistics(0L, 0L, 0L, 0L, 0L, 0L);
+
+    private final long orderCount;
+    private final long matchedOrderCount;
+    private final long fillCount;
+    private final long filledQty;
+    private final long completedOrderCount;
+    private final long cancelledOrderCount;
+
+    public FillStatistics(
+            final long orderCount,
+            final long matchedOrderCount,
+            final long fillCount,
+            final long filledQty,
+            final long completedOrderCount,
+            final long cancelledOrderCount) {
+        this.orderCount = orderCount;
+        this.matchedOrderCount = matchedOrderCount;
+        this.fillCount = fillCount;
+        this.filledQty = filledQty;
+        this.completedOrderCount = completedOrderCount;
+        this.cancelledOrderCount = cancelledOrderCount;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    /** Orders that matched against the book on arrival. */
+    public long getMatchedOrderCount() {
+        return matchedOrderCount;
+    }
+
+    /** Fill notifications, counting both the aggressing and the resting side of a trade. */
+    public long getFillCount() {
+        return fillCount;
+    }
+
+    /** Filled qty summed over all fill notifications, so each traded unit is counted once per side. */
+    public long getFilledQty() {
+        return filledQty;
+    }
+
+    public long getCompletedOrderCount() {
+        return completedOrderCount;
+    }
+
+    /** Market orders, or their unfilled remainder, cancelled for lack of liquidity on arrival. */
+    public long getCancelledOrderCount() {
+        return cancelledOrderCount;
+    }
+
+    public FillStatistics merge(final FillStatistics that) {
+        return new FillStatistics(
+                this.orderCount + that.orderCount,
+                this.matchedOrderCount + that.matchedOrderCount,
+                this.fillCount + that.fillCount,
+                this.filledQty + that.filledQty,
+                this.completedOrderCount + that.completedOrderCount,
+                this.cancelledOrderCount + that.cancelledOrderCount);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof FillStatistics) {
+            final FillStatistics that = (FillStatistics) obj;
+            return this.orderCount == that.orderCount
+                    && this.matchedOrderCount == that.matchedOrderCount
+                    && this.fillCount == that.fillCount
+                    && this.filledQty == that.filledQty
+                    && this.completedOrderCount == that.completedOrderCount
+                    && this.cancelledOrderCount == that.cancelledOrderCount;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(orderCount, matchedOrderCount, fillCount, filledQty, completedOrderCount, cancelledOrderCount);
+    }
+
+    @Override
+    public String toString() {
+        return format("%s(orders=%d, matched=%d, fills=%d, filledQty=%d, completed=%d, cancelled=%d)",
+                this.getClass().getSimpleName(), orderCount, matchedOrderCount, fillCount, filledQty, completedOrderCount,
+                cancelledOrderCount);
+    }
+}
@@ -0,0 +1,77 @@
+package com.activevector.trading.orderbook.sim;
+
+import java.util.Optional;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A single historical order to be replayed against an {@link com.activevector.trading.orderbook.OrderBook}.
+ * Orders tagged with a strategy are tracked for PnL; untagged orders represent the rest of the market.
+ */
+public final class OrderEvent {
+    private final String orderId;
+    private final String strategy;
+    private final boolean buy;
+    private final int qty;
+    private final long price;
+    private final boolean marketOrder;
+
+    private OrderEvent(
+            final String orderId,
+            final String strategy,
+            final boolean buy,
+            final int qty,
+            final long price,
+            final boolean marketOrder) {
+        if (qty <= 0) throw new IllegalArgumentException("Order qty must be positive: " + qty);
+
+        this.orderId = requireNonNull(orderId, "orderId");
+        this.strategy = strategy;
+        this.buy = buy;
+        this.qty = qty;
+        this.price = price;
+        this.marketOrder = marketOrder;
+    }
+
+    public static OrderEvent limitOrder(final String orderId, final String strategy, final boolean buy, final int qty, final long price) {
+        // OrderBook rests market orders at 0 and Long.MAX_VALUE; a limit order there would trade as one.
+        if (price <= 0L || price == Long.MAX_VALUE) throw new IllegalArgumentException("Invalid limit price: " + price);
+        return new OrderEvent(orderId, strategy, buy, qty, price, false);
+    }
+
+    public static OrderEvent marketOrder(final String orderId, final String strategy, final boolean buy, final int qty) {
+        return new OrderEvent(orderId, strategy, buy, qty, 0L, true);
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public Optional<String> getStrategy() {
+        return Optional.ofNullable(strategy);
+    }
+
+    public boolean isBuy() {
+        return buy;
+    }
+
+    public int getQty() {
+        return qty;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public boolean isMarketOrder() {
+        return marketOrder;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s(orderId=%s, strategy=%s, %s,%s,%d)",
+                this.getClass().getSimpleName(), orderId, strategy, buy ? "BID" : "ASK",
+                marketOrder ? "MP" : format("%.2f", price / 100D), qty);
+    }
+}
@@ -0,0 +1,13 @@
+package com.activevector.trading.orderbook.sim;
+
+import java.util.List;
+
+/**
+ * Loads the historical order stream of a single symbol-day, in arrival order.
+ * Called concurrently from the backtest workers, so implementations must be thread-safe. Loads run on the
+ * same bounded pool as replays, so a load blocked on I/O idles a worker; slow sources should be prefetched.
+ */
+@FunctionalInterface
+public interface OrderStreamLoader {
+    List<OrderEvent> load(SymbolDay symbolDay) throws Exception;
+}
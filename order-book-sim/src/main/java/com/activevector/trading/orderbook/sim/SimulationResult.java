@@ -0,0 +1,73 @@
+package com.activevector.trading.orderbook.sim;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+public final class SimulationResult {
+    public static final SimulationResult EMPTY = new SimulationResult(0, FillStatistics.EMPTY, Collections.emptyMap());
+
+    private final int symbolDayCount;
+    private final FillStatistics fillStatistics;
+    private final Map<String, StrategyPnl> pnlByStrategy;
+
+    public SimulationResult(
+            final int symbolDayCount,
+            final FillStatistics fillStatistics,
+            final Map<String, StrategyPnl> pnlByStrategy) {
+        this.symbolDayCount = symbolDayCount;
+        this.fillStatistics = requireNonNull(fillStatistics, "fillStatistics");
+        this.pnlByStrategy = Collections.unmodifiableMap(new TreeMap<>(pnlByStrategy));
+    }
+
+    public int getSymbolDayCount() {
+        return symbolDayCount;
+    }
+
+    public FillStatistics getFillStatistics() {
+        return fillStatistics;
+    }
+
+    public Map<String, StrategyPnl> getPnlByStrategy() {
+        return pnlByStrategy;
+    }
+
+    public StrategyPnl getPnl(final String strategy) {
+        return pnlByStrategy.getOrDefault(strategy, StrategyPnl.EMPTY);
+    }
+
+    public SimulationResult merge(final SimulationResult that) {
+        final Map<String, StrategyPnl> merged = new TreeMap<>(this.pnlByStrategy);
+        that.pnlByStrategy.forEach((strategy, pnl) -> merged.merge(strategy, pnl, StrategyPnl::merge));
+        return new SimulationResult(
+                this.symbolDayCount + that.symbolDayCount,
+                this.fillStatistics.merge(that.fillStatistics),
+                merged);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof SimulationResult) {
+            final SimulationResult that = (SimulationResult) obj;
+            return this.symbolDayCount == that.symbolDayCount
+                    && this.fillStatistics.equals(that.fillStatistics)
+                    && this.pnlByStrategy.equals(that.pnlByStrategy);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(symbolDayCount, fillStatistics, pnlByStrategy);
+    }
+
+    @Override
+    public String toString() {
+        return format("%s(symbolDays=%d, %s, pnlByStrategy=%s)",
+                this.getClass().getSimpleName(), symbolDayCount, fillStatistics, pnlByStrategy);
+    }
+}
@@ -0,0 +1,58 @@
+package com.activevector.trading.orderbook.sim;
+
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * PnL of a strategy, in price units (cents). Each symbol-day starts flat and any position left
+ * at the end of the day is marked at that book's last fill price.
+ */
+public final class StrategyPnl {
+    public static final StrategyPnl EMPTY = new StrategyPnl(0L, 0L, 0L);
+
+    private final long pnl;
+    private final long fillCount;
+    private final long filledQty;
+
+    public StrategyPnl(final long pnl, final long fillCount, final long filledQty) {
+        this.pnl = pnl;
+        this.fillCount = fillCount;
+        this.filledQty = filledQty;
+    }
+
+    public long getPnl() {
+        return pnl;
+    }
+
+    public long getFillCount() {
+        return fillCount;
+    }
+
+    public long getFilledQty() {
+        return filledQty;
+    }
+
+    public StrategyPnl merge(final StrategyPnl that) {
+        return new StrategyPnl(this.pnl + that.pnl, this.fillCount + that.fillCount, this.filledQty + that.filledQty);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof StrategyPnl) {
+            final StrategyPnl that = (StrategyPnl) obj;
+            return this.pnl == that.pnl && this.fillCount == that.fillCount && this.filledQty == that.filledQty;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pnl, fillCount, filledQty);
+    }
+
+    @Override
+    public String toString() {
+        return format("%s(pnl=%.2f, fills=%d, filledQty=%d)", this.getClass().getSimpleName(), pnl / 100D, fillCount, filledQty);
+    }
+}
@@ -0,0 +1,47 @@
+package com.activevector.trading.orderbook.sim;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+public final class SymbolDay implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String symbol;
+    private final LocalDate date;
+
+    public SymbolDay(final String symbol, final LocalDate date) {
+        this.symbol = requireNonNull(symbol, "symbol");
+        this.date = requireNonNull(date, "date");
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(symbol, date);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof SymbolDay) {
+            final SymbolDay that = (SymbolDay) obj;
+            return this.symbol.equals(that.symbol) && this.date.equals(that.date);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s@%s", symbol, date);
+    }
+}
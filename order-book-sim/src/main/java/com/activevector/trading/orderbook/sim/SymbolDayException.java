@@ -0,0 +1,23 @@
+package com.activevector.trading.orderbook.sim;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Thrown by {@link BacktestRunner#run} when a symbol-day fails to load or replay.
+ */
+public class SymbolDayException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final SymbolDay symbolDay;
+
+    // Deliberately not public: fork/join re-wraps exceptions crossing threads via a public (Throwable) or
+    // no-arg constructor, which would hide the failing symbol-day one level down from the caller.
+    SymbolDayException(final SymbolDay symbolDay, final String message, final Throwable cause) {
+        super(message, cause);
+        this.symbolDay = requireNonNull(symbolDay, "symbolDay");
+    }
+
+    public SymbolDay getSymbolDay() {
+        return symbolDay;
+    }
+}
@@ -0,0 +1,91 @@
+package com.activevector.trading.orderbook.sim;
+
+import com.activevector.trading.orderbook.OrderBook;
+import com.activevector.trading.orderbook.OrderStatusListener;
+import com.activevector.trading.orderbook.model.PriceLevelFillStrategy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays one symbol-day on its own {@link OrderBook}. Not thread-safe; confined to the worker running it.
+ * Market orders are replayed as immediate-or-cancel and {@link OrderEvent} rejects limit prices on the
+ * market-price indicators, so fills always happen at real limit prices.
+ */
+class SymbolDayReplay implements OrderStatusListener {
+    private final OrderBook book;
+
+    private final Map<String, OrderEvent> ordersById = new HashMap<>();
+    private final Map<String, StrategyPosition> positionByStrategy = new HashMap<>();
+
+    private long matchedOrderCount;
+    private long fillCount;
+    private long filledQty;
+    private long completedOrderCount;
+    private long cancelledOrderCount;
+    private long lastFillPrice;
+
+    SymbolDayReplay(final SymbolDay symbolDay, final PriceLevelFillStrategy fillStrategy) {
+        this.book = new OrderBook(symbolDay.getSymbol(), this, fillStrategy);
+    }
+
+    SimulationResult replay(final List<OrderEvent> orders) {
+        for (final OrderEvent order : orders) {
+            if (ordersById.putIfAbsent(order.getOrderId(), order) != null) {
+                throw new IllegalArgumentException("Order Id already exists: " + order.getOrderId());
+            }
+
+            final boolean matched = order.isMarketOrder()
+                    ? book.placeImmediateOrCancelMarketOrder(order.getOrderId(), order.isBuy(), order.getQty())
+                    : book.placeLimitOrder(order.getOrderId(), order.isBuy(), order.getQty(), order.getPrice());
+            if (matched) matchedOrderCount++;
+        }
+
+        final Map<String, StrategyPnl> pnlByStrategy = new HashMap<>();
+        positionByStrategy.forEach((strategy, position) -> pnlByStrategy.put(strategy, position.markAt(lastFillPrice)));
+
+        return new SimulationResult(
+                1,
+                new FillStatistics(orders.size(), matchedOrderCount, fillCount, filledQty, completedOrderCount, cancelledOrderCount),
+                pnlByStrategy);
+    }
+
+    @Override
+    public void orderFilled(final String orderId, final long fillPrice, final int fillSize, final boolean lastFill) {
+        fillCount++;
+        filledQty += fillSize;
+        if (lastFill) completedOrderCount++;
+        lastFillPrice = fillPrice;
+
+        final OrderEvent order = ordersById.get(orderId);
+        if (order == null) return;
+
+        order.getStrategy().ifPresent(strategy ->
+                positionByStrategy.computeIfAbsent(strategy, s -> new StrategyPosition()).fill(order.isBuy(), fillSize, fillPrice));
+    }
+
+    @Override
+    public void orderCancelled(final String orderId) {
+        cancelledOrderCount++;
+    }
+
+    private static class StrategyPosition {
+        private long position;
+        private long cash;
+        private long fillCount;
+        private long filledQty;
+
+        void fill(final boolean buy, final int fillSize, final long fillPrice) {
+            final long signedQty = buy ? fillSize : -fillSize;
+            position += signedQty;
+            cash -= signedQty * fillPrice;
+            fillCount++;
+            filledQty += fillSize;
+        }
+
+        StrategyPnl markAt(final long markPrice) {
+            return new StrategyPnl(cash + position * markPrice, fillCount, filledQty);
+        }
+    }
+}
@@ -4,10 +4,14 @@ import com.activevector.trading.orderbook.testutils.OrderStatusAccumulator;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class OrderBookTest {
     private static final String SYMBOL = "ABC";
 
@@ -40,6 +44,26 @@ public class OrderBookTest {
         placeOrderAndShowMatchingPriceLevels(book, false, true);
     }
 
+    @Test
+    public void immediateOrCancelMarketOrderCancelsUnfilledQtyInsteadOfResting() {
+        OrderBook book = new OrderBook(SYMBOL, accumulator);
+
+        assertThat(book.placeImmediateOrCancelMarketOrder("A", false, 10), is(false));
+        assertThat(accumulator.getCancellations(), is(List.of(new OrderCancelEvent("A"))));
+        assertThat(book.getBidPrice(), is(Optional.empty()));
+        assertThat(book.getAskPrice(), is(Optional.empty()));
+
+        accumulator.reset();
+        book.placeLimitOrder("B", true, 10, 10000L);
+        assertThat(book.placeImmediateOrCancelMarketOrder("C", false, 15), is(true));
+        assertThat(accumulator.getFills(), is(List.of(
+                new OrderFillEvent("B", 10000L, 10, true),
+                new OrderFillEvent("C", 10000L, 10, false))));
+        assertThat(accumulator.getCancellations(), is(List.of(new OrderCancelEvent("C"))));
+        assertThat(book.getBidPrice(), is(Optional.empty()));
+        assertThat(book.getAskPrice(), is(Optional.empty()));
+    }
+
     private void placeOrderAndShowMatchingPriceLevels(
             final OrderBook book,
             final boolean buy,
@@ -0,0 +1,191 @@
+package com.activevector.trading.orderbook.sim;
+
+import com.activevector.trading.orderbook.model.PriceLevelFillStrategy;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.activevector.trading.orderbook.sim.OrderEvent.limitOrder;
+import static com.activevector.trading.orderbook.sim.OrderEvent.marketOrder;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class BacktestRunnerTest {
+    private static final LocalDate DAY = LocalDate.of(2020, 1, 2);
+
+    private static final long MIN_PRICE = 9986L;
+    private static final long MAX_PRICE = 10014L;
+
+    @Test
+    public void aggregatesFillStatisticsAndStrategyPnlAcrossSymbolDays() {
+        final Map<SymbolDay, List<OrderEvent>> streams = Map.of(
+                new SymbolDay("ABC", DAY), List.of(
+                        limitOrder("A1", null, false, 10, 10000L),
+                        marketOrder("A2", "S1", true, 10),
+                        limitOrder("A3", null, true, 10, 10500L),
+                        limitOrder("A4", "S1", false, 10, 10500L)),
+                new SymbolDay("XYZ", DAY), List.of(
+                        limitOrder("X1", "S2", false, 10, 5000L),
+                        limitOrder("X2", "S1", true, 5, 5000L),
+                        limitOrder("X3", null, false, 5, 5100L),
+                        limitOrder("X4", null, true, 10, 5100L)));
+
+        final SimulationResult result;
+        try (final BacktestRunner runner = new BacktestRunner(streams::get)) {
+            result = runner.run(streams.keySet());
+        }
+
+        assertThat(result.getSymbolDayCount(), is(2));
+        assertThat(result.getFillStatistics(), is(new FillStatistics(8, 4, 10, 70, 8, 0)));
+
+        // S1: bought 10 @ 100.00 and sold 10 @ 105.00 on ABC; long 5 @ 50.00 on XYZ, marked at 51.00.
+        assertThat(result.getPnl("S1"), is(new StrategyPnl(5000L + 500L, 3, 25)));
+        // S2: short 10 @ 50.00 on XYZ, marked at 51.00.
+        assertThat(result.getPnl("S2"), is(new StrategyPnl(-1000L, 2, 10)));
+    }
+
+    @Test
+    public void cancelsUnfilledMarketSellInsteadOfFillingAtIndicatorPrice() {
+        final SymbolDay symbolDay = new SymbolDay("ABC", DAY);
+        final List<OrderEvent> orders = List.of(
+                marketOrder("M1", null, false, 10),
+                limitOrder("M2", "S1", true, 10, 10000L),
+                limitOrder("M3", null, false, 10, 10000L),
+                limitOrder("M4", null, true, 10, 10000L));
+
+        final SimulationResult result;
+        try (final BacktestRunner runner = new BacktestRunner(sd -> orders)) {
+            result = runner.run(List.of(symbolDay));
+        }
+
+        assertThat(result.getFillStatistics(), is(new FillStatistics(4, 1, 2, 20, 2, 1)));
+        // S1: bought 10 @ 100.00, marked at 100.00.
+        assertThat(result.getPnl("S1"), is(new StrategyPnl(0L, 1, 10)));
+    }
+
+    @Test
+    public void cancelsUnfilledMarketBuyInsteadOfFillingAtIndicatorPrice() {
+        final SymbolDay symbolDay = new SymbolDay("ABC", DAY);
+        final List<OrderEvent> orders = List.of(
+                marketOrder("M1", null, true, 10),
+                limitOrder("M2", "S1", false, 10, 10000L),
+                limitOrder("M3", null, true, 10, 10000L),
+                limitOrder("M4", null, false, 10, 10000L));
+
+        final SimulationResult result;
+        try (final BacktestRunner runner = new BacktestRunner(sd -> orders)) {
+            result = runner.run(List.of(symbolDay));
+        }
+
+        assertThat(result.getFillStatistics(), is(new FillStatistics(4, 1, 2, 20, 2, 1)));
+        // S1: sold 10 @ 100.00, marked at 100.00.
+        assertThat(result.getPnl("S1"), is(new StrategyPnl(0L, 1, 10)));
+    }
+
+    @Test
+    public void reportsFailingSymbolDayWhenLoadFails() {
+        final SymbolDay failing = new SymbolDay("ABC", DAY);
+        final IOException cause = new IOException("missing file");
+
+        try (final BacktestRunner runner = new BacktestRunner(symbolDay -> {
+            if (symbolDay.equals(failing)) throw cause;
+            return List.of();
+        }, PriceLevelFillStrategy.FILL_IN_SEQ, 4)) {
+            runner.run(List.of(new SymbolDay("XYZ", DAY), failing, new SymbolDay("XYZ", DAY.plusDays(1))));
+            fail("Expected " + SymbolDayException.class.getSimpleName());
+        }
+        catch (final SymbolDayException e) {
+            assertThat(e.getSymbolDay(), is(failing));
+            assertThat(e.getCause(), is(cause));
+        }
+    }
+
+    @Test
+    public void stopsLoadingRemainingSymbolDaysAfterFailure() throws InterruptedException {
+        final List<SymbolDay> symbolDays = symbolDays(200, 10);
+        final SymbolDay failing = symbolDays.get(symbolDays.size() - 1);
+        final AtomicInteger loads = new AtomicInteger();
+
+        try (final BacktestRunner runner = new BacktestRunner(symbolDay -> {
+            loads.incrementAndGet();
+            if (symbolDay.equals(failing)) throw new IOException("missing file");
+            return List.of();
+        }, PriceLevelFillStrategy.FILL_IN_SEQ, 2)) {
+            runner.run(symbolDays);
+            fail("Expected " + SymbolDayException.class.getSimpleName());
+        }
+        catch (final SymbolDayException e) {
+            assertThat(e.getSymbolDay(), is(failing));
+        }
+
+        Thread.sleep(500L);
+        assertThat("loads after failure: " + loads.get(), loads.get() < 100, is(true));
+    }
+
+    @Test
+    public void runnerMatchesPlainSequentialReplay() {
+        final List<SymbolDay> symbolDays = symbolDays(20, 10);
+
+        SimulationResult sequential = SimulationResult.EMPTY;
+        for (final SymbolDay symbolDay : symbolDays) {
+            sequential = sequential.merge(new SymbolDayReplay(symbolDay, PriceLevelFillStrategy.FILL_IN_SEQ).replay(randomStream(symbolDay)));
+        }
+        final SimulationResult parallel;
+        try (final BacktestRunner runner = new BacktestRunner(BacktestRunnerTest::randomStream, PriceLevelFillStrategy.FILL_IN_SEQ, 8)) {
+            parallel = runner.run(symbolDays);
+        }
+
+        assertThat(parallel.getSymbolDayCount(), is(symbolDays.size()));
+        assertThat(parallel, is(sequential));
+
+        assertThat(parallel.getFillStatistics().getCancelledOrderCount() > 0, is(true));
+
+        // Every fill and end-of-day mark lies within the generated price range, bounding PnL by range * qty.
+        final long priceRange = MAX_PRICE - MIN_PRICE;
+        assertThat(parallel.getPnlByStrategy().keySet(), is(Set.of("S0", "S1", "S2")));
+        parallel.getPnlByStrategy().forEach((strategy, pnl) -> {
+            assertThat(strategy, pnl.getFilledQty() > 0, is(true));
+            assertThat(strategy, Math.abs(pnl.getPnl()) <= priceRange * pnl.getFilledQty(), is(true));
+        });
+    }
+
+    @Test
+    public void returnsEmptyResultWhenThereIsNothingToReplay() {
+        try (final BacktestRunner runner = new BacktestRunner(symbolDay -> List.of())) {
+            assertThat(runner.run(List.of()), is(SimulationResult.EMPTY));
+        }
+    }
+
+    private static List<SymbolDay> symbolDays(final int symbolCount, final int dayCount) {
+        final List<SymbolDay> symbolDays = new ArrayList<>();
+        for (int s = 0; s < symbolCount; s++) {
+            for (int d = 0; d < dayCount; d++) {
+                symbolDays.add(new SymbolDay("SYM" + s, DAY.plusDays(d)));
+            }
+        }
+        return symbolDays;
+    }
+
+    private static List<OrderEvent> randomStream(final SymbolDay symbolDay) {
+        final Random r = new Random(symbolDay.hashCode());
+        final List<OrderEvent> orders = new ArrayList<>();
+        for (int i = 0, count = 100 + r.nextInt(100); i < count; i++) {
+            final String orderId = symbolDay + "-" + i;
+            final String strategy = r.nextInt(4) == 0 ? "S" + r.nextInt(3) : null;
+            final boolean buy = r.nextBoolean();
+            final int qty = 10 * (1 + r.nextInt(9));
+            orders.add(r.nextInt(10) == 0
+                    ? marketOrder(orderId, strategy, buy, qty)
+                    : limitOrder(orderId, strategy, buy, qty, buy ? MIN_PRICE + r.nextInt(20) : MAX_PRICE - r.nextInt(20)));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,36 @@
+package com.activevector.trading.orderbook.sim;
+
+import org.junit.Test;
+
+import static com.activevector.trading.orderbook.sim.OrderEvent.limitOrder;
+import static com.activevector.trading.orderbook.sim.OrderEvent.marketOrder;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class OrderEventTest {
+    @Test
+    public void createsLimitOrderWithinValidPriceRange() {
+        assertThat(limitOrder("A", "S1", true, 10, 1L).getPrice(), is(1L));
+        assertThat(limitOrder("B", null, false, 10, Long.MAX_VALUE - 1).getPrice(), is(Long.MAX_VALUE - 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroLimitPrice() {
+        limitOrder("A", "S1", false, 10, 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeLimitPrice() {
+        limitOrder("A", "S1", false, 10, -100L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMaxValueLimitPrice() {
+        limitOrder("A", "S1", true, 10, Long.MAX_VALUE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveQty() {
+        marketOrder("A", "S1", true, 0);
+    }
+}